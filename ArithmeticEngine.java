@@ -0,0 +1,118 @@
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.LongBinaryOperator;
+
+/*
+  ArithmeticEngine.java
+
+  Batch form of the switch-case calculator in SwitchCase.java. Input is a stream
+  of "a b op" records with the same menu codes:
+    1 Addition  2 Substraction  3 Multiplication  4 Division  5 Modulus
+  Each record produces exactly one line, e.g. "Addition:7". Division or
+  modulus by zero prints "Not Divisible" and an unknown code prints
+  "Invalid Choice"; neither throws. A malformed or truncated record
+  stops the run with an exception, after the lines for every record
+  before it have been written.
+
+  Records are read BATCH at a time into primitive arrays, evaluated in a
+  tight loop through the OPS table (a lookup instead of a fall-through
+  switch) with long arithmetic, then written through one FastOutput.
+
+  Usage: java ArithmeticEngine [file]   (stdin when no file)
+*/
+public class ArithmeticEngine {
+    static final int BATCH = 4096;
+
+    static final String[] NAMES = { null, "Addition", "Substraction", "Multiplication", "Division", "Modulus" };
+    static final LongBinaryOperator[] OPS = {
+            null,
+            (a, b) -> a + b,
+            (a, b) -> a - b,
+            (a, b) -> a * b,
+            (a, b) -> a / b,
+            (a, b) -> a % b,
+    };
+    // ops that need a non-zero right operand
+    static final boolean[] DIVIDES = { false, false, false, false, true, true };
+
+    static final byte OK = 0, NOT_DIVISIBLE = 1, INVALID = 2;
+
+    private final long[] a = new long[BATCH];
+    private final long[] b = new long[BATCH];
+    private final int[] op = new int[BATCH];
+    private final long[] result = new long[BATCH];
+    private final byte[] status = new byte[BATCH];
+
+    static byte check(long b, int op) {
+        if (op <= 0 || op >= OPS.length)
+            return INVALID;
+        if (DIVIDES[op] && b == 0)
+            return NOT_DIVISIBLE;
+        return OK;
+    }
+
+    // Single record, for the interactive calculator.
+    static String evaluate(long a, long b, int op) {
+        switch (check(b, op)) {
+            case INVALID:
+                return "Invalid Choice";
+            case NOT_DIVISIBLE:
+                return "Not Divisible";
+            default:
+                return NAMES[op] + ":" + OPS[op].applyAsLong(a, b);
+        }
+    }
+
+    void run(FastInput in, FastOutput out) throws IOException {
+        while (true) {
+            int n = 0;
+            try {
+                while (n < BATCH && in.hasNext()) {
+                    a[n] = in.nextLong();
+                    b[n] = in.nextLong();
+                    long code = in.nextLong();
+                    // out-of-range codes map to 0, which check() rejects
+                    op[n] = code > 0 && code < OPS.length ? (int) code : 0;
+                    n++;
+                }
+            } catch (IOException | RuntimeException e) {
+                // answer the records before the bad or truncated one first
+                evaluateBatch(n);
+                writeBatch(n, out);
+                throw e;
+            }
+            if (n == 0)
+                return;
+            evaluateBatch(n);
+            writeBatch(n, out);
+        }
+    }
+
+    private void evaluateBatch(int n) {
+        for (int i = 0; i < n; i++) {
+            byte s = check(b[i], op[i]);
+            status[i] = s;
+            if (s == OK)
+                result[i] = OPS[op[i]].applyAsLong(a[i], b[i]);
+        }
+    }
+
+    private void writeBatch(int n, FastOutput out) throws IOException {
+        for (int i = 0; i < n; i++) {
+            if (status[i] == INVALID)
+                out.println("Invalid Choice");
+            else if (status[i] == NOT_DIVISIBLE)
+                out.println("Not Divisible");
+            else
+                out.print(NAMES[op[i]]).print(':').println(result[i]);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        InputStream src = args.length == 0 || args[0].equals("-") ? System.in : new FileInputStream(args[0]);
+        try (FastInput in = new FastInput(src); FastOutput out = new FastOutput(System.out)) {
+            new ArithmeticEngine().run(in, out);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+public class ArraySearch {
+    // Single linear search shared by LinearSearch and Siddu.
+    // The loop is bounded by arr.length so the JIT can prove every access is
+    // in range, drop the bounds checks and unroll; a miss just falls out of the
+    // loop and returns -1 instead of running off the end of the array.
+    static int indexOf(int[] arr, int target) {
+        for (int i = 0; i < arr.length; i++) {
+            if (arr[i] == target)
+                return i;
+        }
+        return -1;
+    }
+}
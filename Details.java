@@ -1,16 +1,19 @@
 
-import java.util.*;
+import java.io.IOException;
 
 class Details {
-    public static void main(String args[]) {
-        Scanner sc = new Scanner(System.in);
+    public static void main(String args[]) throws IOException {
+        FastInput in = new FastInput(System.in);
+        FastOutput out = new FastOutput(System.out);
         int number;
-        System.out.println("Enter a number");
-        number = sc.nextInt();
+        out.println("Enter a number");
+        out.flush();
+        number = in.nextInt();
         if (number % 2 == 0) {
-            System.out.println("Even");
+            out.println("Even");
         } else {
-            System.out.println("Odd");
+            out.println("Odd");
         }
+        out.flush();
     }
 }
\ No newline at end of file
@@ -0,0 +1,163 @@
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/*
+  FastInput.java
+
+  Byte-level token reader shared by every program that reads input.
+  Reads the stream in 64 KB chunks and parses integers straight from the
+  bytes, with no regex, no String per token and no boxing (compare
+  java.util.Scanner). next() and nextLine() only allocate the String
+  they return; text is decoded as UTF-8.
+
+  Like Scanner, nextInt() stops right after the number, so a following
+  nextLine() returns the rest of that line.
+*/
+public class FastInput implements AutoCloseable {
+    static final int BUFFER_SIZE = 1 << 16;
+
+    private final InputStream in;
+    private final byte[] buf = new byte[BUFFER_SIZE];
+    private int pos, len;
+    private byte[] text = new byte[64];
+
+    public FastInput(InputStream in) {
+        this.in = in;
+    }
+
+    // Both return the next byte as 0..255, or -1 at end of input only.
+    private int read() throws IOException {
+        if (pos == len) {
+            len = in.read(buf, 0, buf.length);
+            pos = 0;
+            if (len <= 0) {
+                len = 0;
+                return -1;
+            }
+        }
+        return buf[pos++] & 0xFF;
+    }
+
+    private int peek() throws IOException {
+        if (pos == len) {
+            len = in.read(buf, 0, buf.length);
+            pos = 0;
+            if (len <= 0) {
+                len = 0;
+                return -1;
+            }
+        }
+        return buf[pos] & 0xFF;
+    }
+
+    // Skips whitespace; false once the input is exhausted.
+    public boolean hasNext() throws IOException {
+        int c;
+        while ((c = peek()) != -1 && c <= ' ')
+            pos++;
+        return c != -1;
+    }
+
+    public int nextInt() throws IOException {
+        if (!hasNext())
+            throw new EOFException("no more integers");
+        int c = read();
+        boolean negative = c == '-';
+        if (negative || c == '+')
+            c = read();
+        if (c < '0' || c > '9')
+            throw new NumberFormatException("not an integer at '" + (char) c + "'");
+        // accumulate on the negative side so Integer.MIN_VALUE parses
+        int value = 0;
+        do {
+            int digit = c - '0';
+            if (value < (Integer.MIN_VALUE + digit) / 10)
+                throw new NumberFormatException("integer overflow");
+            value = value * 10 - digit;
+            c = peek();
+            if (c < '0' || c > '9')
+                break;
+            pos++;
+        } while (true);
+        if (c > ' ')
+            throw new NumberFormatException("not an integer at '" + (char) c + "'");
+        if (negative)
+            return value;
+        if (value == Integer.MIN_VALUE)
+            throw new NumberFormatException("integer overflow");
+        return -value;
+    }
+
+    public long nextLong() throws IOException {
+        if (!hasNext())
+            throw new EOFException("no more integers");
+        int c = read();
+        boolean negative = c == '-';
+        if (negative || c == '+')
+            c = read();
+        if (c < '0' || c > '9')
+            throw new NumberFormatException("not an integer at '" + (char) c + "'");
+        long value = 0;
+        do {
+            int digit = c - '0';
+            if (value < (Long.MIN_VALUE + digit) / 10)
+                throw new NumberFormatException("integer overflow");
+            value = value * 10 - digit;
+            c = peek();
+            if (c < '0' || c > '9')
+                break;
+            pos++;
+        } while (true);
+        if (c > ' ')
+            throw new NumberFormatException("not an integer at '" + (char) c + "'");
+        if (negative)
+            return value;
+        if (value == Long.MIN_VALUE)
+            throw new NumberFormatException("integer overflow");
+        return -value;
+    }
+
+    // Next whitespace-separated token, or null at end of input.
+    public String next() throws IOException {
+        if (!hasNext())
+            return null;
+        int n = 0;
+        int c;
+        while ((c = peek()) > ' ') {
+            pos++;
+            n = append(n, c);
+        }
+        return new String(text, 0, n, StandardCharsets.UTF_8);
+    }
+
+    // Rest of the current line without its '\n' or '\r\n', or null at end
+    // of input.
+    public String nextLine() throws IOException {
+        int c = read();
+        if (c == -1)
+            return null;
+        int n = 0;
+        while (c != -1 && c != '\n') {
+            n = append(n, c);
+            c = read();
+        }
+        if (n > 0 && text[n - 1] == '\r')
+            n--;
+        return new String(text, 0, n, StandardCharsets.UTF_8);
+    }
+
+    private int append(int n, int c) {
+        if (n == text.length)
+            text = Arrays.copyOf(text, n * 2);
+        text[n] = (byte) c;
+        return n + 1;
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
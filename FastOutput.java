@@ -0,0 +1,113 @@
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/*
+  FastOutput.java
+
+  Buffered writer shared by every program that prints results. Numbers
+  and ASCII text are formatted directly into a byte buffer; the
+  underlying stream only sees one write per 64 KB instead of one per
+  System.out.println. Call flush() (or close()) before exiting.
+*/
+public class FastOutput implements AutoCloseable {
+    static final int BUFFER_SIZE = 1 << 16;
+
+    private final OutputStream out;
+    private final byte[] buf = new byte[BUFFER_SIZE];
+    private final byte[] digits = new byte[20];
+    private int pos;
+
+    public FastOutput(OutputStream out) {
+        this.out = out;
+    }
+
+    private void ensure(int n) throws IOException {
+        if (pos + n > buf.length)
+            flushBuffer();
+    }
+
+    public FastOutput print(char c) throws IOException {
+        if (c >= 0x80)
+            return print(String.valueOf(c));
+        ensure(1);
+        buf[pos++] = (byte) c;
+        return this;
+    }
+
+    public FastOutput print(String s) throws IOException {
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c >= 0x80) {
+                // rare: fall back to encoding the rest of the string
+                byte[] bytes = s.substring(i).getBytes(StandardCharsets.UTF_8);
+                write(bytes, 0, bytes.length);
+                return this;
+            }
+            ensure(1);
+            buf[pos++] = (byte) c;
+        }
+        return this;
+    }
+
+    public FastOutput print(int v) throws IOException {
+        return print((long) v);
+    }
+
+    public FastOutput print(long v) throws IOException {
+        ensure(20);
+        if (v == Long.MIN_VALUE)
+            return print("-9223372036854775808");
+        if (v < 0) {
+            buf[pos++] = '-';
+            v = -v;
+        }
+        int n = 0;
+        do {
+            digits[n++] = (byte) ('0' + v % 10);
+            v /= 10;
+        } while (v != 0);
+        while (n > 0)
+            buf[pos++] = digits[--n];
+        return this;
+    }
+
+    public FastOutput println() throws IOException {
+        return print('\n');
+    }
+
+    public FastOutput println(String s) throws IOException {
+        return print(s).print('\n');
+    }
+
+    public FastOutput println(long v) throws IOException {
+        return print(v).print('\n');
+    }
+
+    public void write(byte[] b, int off, int n) throws IOException {
+        if (n > buf.length) {
+            flushBuffer();
+            out.write(b, off, n);
+            return;
+        }
+        ensure(n);
+        System.arraycopy(b, off, buf, pos, n);
+        pos += n;
+    }
+
+    private void flushBuffer() throws IOException {
+        out.write(buf, 0, pos);
+        pos = 0;
+    }
+
+    public void flush() throws IOException {
+        flushBuffer();
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        out.close();
+    }
+}
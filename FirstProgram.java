@@ -1,5 +1,9 @@
+import java.io.IOException;
+
 class FirstProgram{
-    public static void main(String args[]){
-        System.out.println("Siddu Baby....");
+    public static void main(String args[]) throws IOException{
+        FastOutput out = new FastOutput(System.out);
+        out.println("Siddu Baby....");
+        out.flush();
     }
 } 
\ No newline at end of file
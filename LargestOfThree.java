@@ -0,0 +1,22 @@
+import java.io.IOException;
+
+class LargestOfThree {
+    public static void main(String[] args) throws IOException {
+        FastInput in = new FastInput(System.in);
+        FastOutput out = new FastOutput(System.out);
+        out.println("Enter a number");
+        out.flush();
+        int a, b, c;
+        a = in.nextInt();
+        b = in.nextInt();
+        c = in.nextInt();
+        if (a > b && a > c) {
+            out.print("A is Largest").println(a);
+        } else if (b > a && b > c) {
+            out.print("B is Largest").println(b);
+        } else {
+            out.println("C is Largest");
+        }
+        out.flush();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,117 @@
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/*
+  Launcher.java
+
+  One entry point for every program in the repo, so they can share one
+  jar, one JVM start-up path and one class-data-sharing archive.
+
+  Usage: java -jar tools.jar <command> [args...]
+
+  Dispatch is a plain switch rather than a map of method references:
+  lambdas are bootstrapped at run time, which is exactly the start-up
+  cost this launcher is meant to avoid.
+
+  --train runs every command once on canned input with output discarded;
+  build-tools.sh uses it as the training run for the AppCDS archive.
+*/
+public class Launcher {
+    static final String[][] COMMANDS = {
+            { "first", "FirstProgram: prints a greeting" },
+            { "parity", "Details: even or odd of one number" },
+            { "sign", "SignCheck: positive, zero or negative" },
+            { "largest", "LargestOfThree: largest of three numbers" },
+            { "leap", "LeapYear: leap year check" },
+            { "vowel", "VowelCheck: vowel or consonant" },
+            { "calc", "SwitchCase: one calculator operation" },
+            { "search", "LinearSearch: linear search demo" },
+            { "siddu", "Siddu: linear search demo" },
+            { "lcp", "longestCP: longest common prefix [--mmap] [file | -]" },
+            { "cube", "CubeSolver: TCS CodeVita box game" },
+            { "classify", "NumberClassifier: batch number classification" },
+            { "vowels", "VowelClassifier: bulk vowel/consonant counts" },
+            { "arith", "ArithmeticEngine: batch calculator" },
+            { "server", "ToolServer: resident server [--port N | --unix PATH]" },
+            { "client", "ToolClient: request to a running server" },
+    };
+
+    static void run(String name, String[] args) throws Exception {
+        switch (name) {
+            case "first": FirstProgram.main(args); break;
+            case "parity": Details.main(args); break;
+            case "sign": SignCheck.main(args); break;
+            case "largest": LargestOfThree.main(args); break;
+            case "leap": LeapYear.main(args); break;
+            case "vowel": VowelCheck.main(args); break;
+            case "calc": SwitchCase.main(args); break;
+            case "search": LinearSearch.main(args); break;
+            case "siddu": Siddu.main(args); break;
+            case "lcp": longestCP.main(args); break;
+            case "cube": CubeSolver.main(args); break;
+            case "classify": NumberClassifier.main(args); break;
+            case "vowels": VowelClassifier.main(args); break;
+            case "arith": ArithmeticEngine.main(args); break;
+            case "server": ToolServer.main(args); break;
+            case "client": ToolClient.main(args); break;
+            default: throw new IllegalArgumentException("unknown command: " + name);
+        }
+    }
+
+    // { command, stdin, args... } for each step of the --train run.
+    static final String[][] TRAINING = {
+            { "first", "" },
+            { "parity", "7\n" },
+            { "sign", "-3\n" },
+            { "largest", "4 9 2\n" },
+            { "leap", "2000\n" },
+            { "vowel", "e\n" },
+            { "calc", "7 3 4\n" },
+            { "search", "" },
+            { "siddu", "" },
+            { "lcp", "" },
+            { "lcp", "flower\nflow\nflight\n", "-" },
+            { "cube", "2 1\nR R\nR R\nG G\nG G\nB B\nB B\nY Y\nY Y\nO O\nO O\nW W\nW W\nturn left\n" },
+            { "classify", "5 -4 0\n" },
+            { "classify", "5 -4 0\n", "--stats" },
+            { "vowels", "hello world\n" },
+            { "arith", "7 3 1 7 0 4 1 1 9\n" },
+    };
+
+    static void train() throws Exception {
+        InputStream in = System.in;
+        PrintStream out = System.out;
+        try {
+            System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+            for (String[] step : TRAINING) {
+                System.setIn(new ByteArrayInputStream(step[1].getBytes(StandardCharsets.UTF_8)));
+                run(step[0], Arrays.copyOfRange(step, 2, step.length));
+            }
+        } finally {
+            System.setIn(in);
+            System.setOut(out);
+        }
+    }
+
+    static void usage() {
+        System.out.println("usage: java -jar tools.jar <command> [args...]");
+        for (String[] c : COMMANDS)
+            System.out.printf("  %-9s %s%n", c[0], c[1]);
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0 || args[0].equals("-h") || args[0].equals("--help")) {
+            usage();
+            return;
+        }
+        if (args[0].equals("--train")) {
+            train();
+            return;
+        }
+        run(args[0], Arrays.copyOfRange(args, 1, args.length));
+    }
+}
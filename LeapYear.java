@@ -0,0 +1,18 @@
+import java.io.IOException;
+
+class LeapYear {
+    public static void main(String[] args) throws IOException {
+        FastInput in = new FastInput(System.in);
+        FastOutput out = new FastOutput(System.out);
+        int year;
+        year = in.nextInt();
+        out.println("enter year");
+        if(ColumnClassifier.isLeapYear(year)){
+            out.println("Leap Year");
+        }
+        else{
+            out.println("Not a Leap Year");
+        }
+        out.flush();
+    }
+}
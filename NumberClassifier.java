@@ -0,0 +1,98 @@
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.file.Paths;
+
+/*
+  NumberClassifier.java
+
+  Batch version of the single-value programs:
+    --parity   even/odd                      (Details)
+    --sign     positive/zero/negative        (SignCheck)
+    --largest  largest of each group of 3    (LargestOfThree)
+    --stats    totals only, see NumberStats
+
+  Usage: java NumberClassifier [--parity] [--sign] [--largest] [--stats] [file]
+  Reads whitespace-separated ints from the file (or stdin) and writes
+  one line per value, e.g. "-4 Even Negative"; with --largest a
+  "Largest <n>" line follows every third value, and one more follows a
+  final group of one or two values. With no flags all three
+  classifications are applied. Unknown flags or a second file print
+  usage and exit 2.
+*/
+public class NumberClassifier {
+    static final int PARITY = 1, SIGN = 2, LARGEST = 4;
+
+    static String parity(int n) {
+        return (n & 1) == 0 ? "Even" : "Odd";
+    }
+
+    static String sign(int n) {
+        return n > 0 ? "Positive" : n == 0 ? "Zero" : "Negative";
+    }
+
+    static void classify(FastInput in, FastOutput out, int modes) throws Exception {
+        boolean perValue = (modes & (PARITY | SIGN)) != 0;
+        int group = 0, max = 0;
+        while (in.hasNext()) {
+            int n = in.nextInt();
+            if (perValue) {
+                out.print(n);
+                if ((modes & PARITY) != 0)
+                    out.print(' ').print(parity(n));
+                if ((modes & SIGN) != 0)
+                    out.print(' ').print(sign(n));
+                out.println();
+            }
+            if ((modes & LARGEST) != 0) {
+                max = group == 0 ? n : Math.max(max, n);
+                if (++group == 3) {
+                    out.print("Largest ").println(max);
+                    group = 0;
+                }
+            }
+        }
+        if (group > 0)
+            out.print("Largest ").println(max);
+    }
+
+    static void usage() {
+        System.err.println("usage: NumberClassifier [--parity] [--sign] [--largest] [--stats] [file | -]");
+        System.exit(2);
+    }
+
+    public static void main(String[] args) throws Exception {
+        int modes = 0;
+        boolean stats = false;
+        String file = null;
+        for (String a : args) {
+            if (a.equals("--stats"))
+                stats = true;
+            else if (a.equals("--parity"))
+                modes |= PARITY;
+            else if (a.equals("--sign"))
+                modes |= SIGN;
+            else if (a.equals("--largest"))
+                modes |= LARGEST;
+            else if (file == null && (a.equals("-") || !a.startsWith("-")))
+                file = a;
+            else
+                usage();
+        }
+        if (modes == 0)
+            modes = PARITY | SIGN | LARGEST;
+        boolean stdin = file == null || file.equals("-");
+        if (stats && !stdin) {
+            try (FastOutput out = new FastOutput(System.out)) {
+                NumberStats.of(Paths.get(file)).print(out);
+            }
+            return;
+        }
+        InputStream src = stdin ? System.in : new FileInputStream(file);
+        try (FastInput in = new FastInput(src); FastOutput out = new FastOutput(System.out)) {
+            if (stats)
+                NumberStats.of(in).print(out);
+            else
+                classify(in, out, modes);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.IntStream;
+
+/*
+  NumberStats.java
+
+  One-pass totals for NumberClassifier --stats: how many values were
+  even/odd and positive/zero/negative, and the largest one. Files are
+  split into chunks at whitespace boundaries and every chunk is parsed
+  from its own mapping on the common fork-join pool with primitive
+  locals; the per-chunk results are then merged. Stdin is read once,
+  sequentially.
+*/
+public class NumberStats {
+    // Chunks never exceed this, so each one fits a single mapping.
+    static final long MAX_CHUNK = 1L << 28;
+    // Bytes mapped past a chunk's end to finish its last token: enough for
+    // "-2147483648" plus a delimiter. Leading zeros or a '+' can make a
+    // valid token longer, so the slack doubles until it reaches whitespace.
+    static final int MAX_TOKEN = 12;
+
+    long count, even, positive, zero, negative;
+    int max = Integer.MIN_VALUE;
+
+    long odd() {
+        return count - even;
+    }
+
+    void add(int n) {
+        count++;
+        even += ~n & 1;
+        if (n > 0)
+            positive++;
+        else if (n == 0)
+            zero++;
+        else
+            negative++;
+        if (n > max)
+            max = n;
+    }
+
+    NumberStats merge(NumberStats o) {
+        count += o.count;
+        even += o.even;
+        positive += o.positive;
+        zero += o.zero;
+        negative += o.negative;
+        max = Math.max(max, o.max);
+        return this;
+    }
+
+    static NumberStats of(FastInput in) throws IOException {
+        NumberStats s = new NumberStats();
+        while (in.hasNext())
+            s.add(in.nextInt());
+        return s;
+    }
+
+    static NumberStats of(Path file) throws IOException {
+        return of(file, MAX_CHUNK);
+    }
+
+    // maxChunk is exposed so tests can force tokens across chunk boundaries.
+    static NumberStats of(Path file, long maxChunk) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = ch.size();
+            int chunks = (int) Math.max(Runtime.getRuntime().availableProcessors(), (size + maxChunk - 1) / maxChunk);
+            long step = (size + chunks - 1) / chunks;
+            try {
+                return IntStream.range(0, chunks).parallel()
+                        .mapToObj(i -> chunk(ch, size, i * step, Math.min(size, (i + 1) * step)))
+                        .reduce(NumberStats::merge)
+                        .orElseGet(NumberStats::new);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    // Parses every token that starts in [from, to).
+    private static NumberStats chunk(FileChannel ch, long size, long from, long to) {
+        NumberStats s = new NumberStats();
+        if (from >= to)
+            return s;
+        long base = Math.max(0, from - 1);
+        int stop = (int) (to - base);
+        MappedByteBuffer buf;
+        long end;
+        for (long slack = MAX_TOKEN;; slack *= 2) {
+            end = Math.min(size, to + slack);
+            if (end - base > Integer.MAX_VALUE)
+                throw new NumberFormatException("token too long at byte " + to);
+            try {
+                buf = ch.map(FileChannel.MapMode.READ_ONLY, base, end - base);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (end == size || hasBlank(buf, stop, (int) (end - base)))
+                break;
+        }
+        int limit = (int) (end - base);
+        int p = (int) (from - base);
+        // a token straddling the chunk start belongs to the previous chunk
+        if (from > 0 && (buf.get(p - 1) & 0xFF) > ' ')
+            while (p < limit && (buf.get(p) & 0xFF) > ' ')
+                p++;
+
+        long count = 0, even = 0, positive = 0, zero = 0, negative = 0;
+        int max = Integer.MIN_VALUE;
+        while (true) {
+            while (p < limit && (buf.get(p) & 0xFF) <= ' ')
+                p++;
+            if (p >= stop)
+                break;
+            int c = buf.get(p++) & 0xFF;
+            boolean neg = c == '-';
+            if (neg || c == '+')
+                c = p < limit ? buf.get(p++) & 0xFF : ' ';
+            if (c < '0' || c > '9')
+                throw new NumberFormatException("not an integer at byte " + (base + p - 1));
+            int value = 0;
+            while (true) {
+                int digit = c - '0';
+                if (value < (Integer.MIN_VALUE + digit) / 10)
+                    throw new NumberFormatException("integer overflow at byte " + (base + p - 1));
+                value = value * 10 - digit;
+                // the mapping always reaches the end of the token or file
+                if (p >= limit)
+                    break;
+                c = buf.get(p) & 0xFF;
+                if (c < '0' || c > '9')
+                    break;
+                p++;
+            }
+            if (p < limit && (buf.get(p) & 0xFF) > ' ')
+                throw new NumberFormatException("not an integer at byte " + (base + p));
+            if (!neg) {
+                if (value == Integer.MIN_VALUE)
+                    throw new NumberFormatException("integer overflow at byte " + (base + p));
+                value = -value;
+            }
+            count++;
+            even += ~value & 1;
+            if (value > 0)
+                positive++;
+            else if (value == 0)
+                zero++;
+            else
+                negative++;
+            if (value > max)
+                max = value;
+        }
+        s.count = count;
+        s.even = even;
+        s.positive = positive;
+        s.zero = zero;
+        s.negative = negative;
+        s.max = max;
+        return s;
+    }
+
+    private static boolean hasBlank(MappedByteBuffer buf, int from, int to) {
+        for (int i = from; i < to; i++)
+            if ((buf.get(i) & 0xFF) <= ' ')
+                return true;
+        return false;
+    }
+
+    void print(FastOutput out) throws IOException {
+        out.print("count ").println(count);
+        out.print("even ").println(even);
+        out.print("odd ").println(odd());
+        out.print("positive ").println(positive);
+        out.print("zero ").println(zero);
+        out.print("negative ").println(negative);
+        if (count > 0)
+            out.print("max ").println(max);
+    }
+}
@@ -0,0 +1,72 @@
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/*
+  ParallelPrefix.java
+
+  Fork-join longest common prefix. Each task returns the length of the
+  common prefix of strs[lo..hi) as a prefix of strs[lo]; two halves are
+  merged by comparing strs[lo] and strs[mid] up to the shorter length.
+  The first task that finds an empty prefix raises a shared flag and all
+  other workers stop scanning and forking.
+*/
+public class ParallelPrefix extends RecursiveTask<Integer> {
+    private static final long serialVersionUID = 1L;
+
+    // Below this many strings a range is scanned on the current thread.
+    static final int THRESHOLD = 4096;
+
+    private final String[] strs;
+    private final int lo, hi;
+    private final Done done;
+
+    static final class Done {
+        volatile boolean empty;
+    }
+
+    private ParallelPrefix(String[] strs, int lo, int hi, Done done) {
+        this.strs = strs;
+        this.lo = lo;
+        this.hi = hi;
+        this.done = done;
+    }
+
+    public static String longestCommonPrefix(String[] strs) {
+        if (strs == null || strs.length == 0)
+            return "";
+        int len = ForkJoinPool.commonPool().invoke(new ParallelPrefix(strs, 0, strs.length, new Done()));
+        return strs[0].substring(0, len);
+    }
+
+    @Override
+    protected Integer compute() {
+        if (done.empty)
+            return 0;
+        if (hi - lo <= THRESHOLD)
+            return scan();
+        int mid = (lo + hi) >>> 1;
+        ParallelPrefix right = new ParallelPrefix(strs, mid, hi, done);
+        right.fork();
+        int leftLen = new ParallelPrefix(strs, lo, mid, done).compute();
+        int rightLen = right.join();
+        if (done.empty)
+            return 0;
+        int len = PrefixAccumulator.common(strs[lo], strs[mid], Math.min(leftLen, rightLen));
+        if (len == 0)
+            done.empty = true;
+        return len;
+    }
+
+    private int scan() {
+        String first = strs[lo];
+        int len = first.length();
+        for (int k = lo + 1; k < hi && len > 0; k++) {
+            if (done.empty)
+                return 0;
+            len = PrefixAccumulator.common(first, strs[k], len);
+        }
+        if (len == 0)
+            done.empty = true;
+        return len;
+    }
+}
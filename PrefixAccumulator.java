@@ -0,0 +1,50 @@
+/*
+  PrefixAccumulator.java
+
+  Running longest common prefix over a stream of strings.
+  The prefix is kept as (first string, length) so shrinking it never
+  allocates; each new string is compared only up to the current length,
+  which makes the whole pass O(total chars). Once the prefix is empty
+  every further string is skipped.
+*/
+public class PrefixAccumulator {
+    private String base;
+    private int length;
+
+    // Feeds one more string; returns false once the prefix is empty so
+    // callers can stop reading.
+    public boolean accept(String s) {
+        if (base == null) {
+            base = s;
+            length = s.length();
+            return length > 0;
+        }
+        if (length == 0)
+            return false;
+        length = common(base, s, length);
+        return length > 0;
+    }
+
+    // Length of the common prefix of a and b, compared up to limit chars
+    // (limit must not exceed a.length()). Shared with ParallelPrefix and
+    // PrefixIndex.
+    static int common(String a, String b, int limit) {
+        limit = Math.min(limit, b.length());
+        int i = 0;
+        while (i < limit && a.charAt(i) == b.charAt(i))
+            i++;
+        return i;
+    }
+
+    public boolean isEmpty() {
+        return base != null && length == 0;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    public String prefix() {
+        return base == null ? "" : base.substring(0, length);
+    }
+}
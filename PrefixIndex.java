@@ -0,0 +1,149 @@
+import java.util.Arrays;
+
+/*
+  PrefixIndex.java
+
+  Build once, then answer many longest-common-prefix queries over the same
+  set of strings without re-sorting.
+
+  - sorted[]  : the strings in lexicographic order (input is not modified)
+  - lcp[k]    : common prefix length of sorted[k-1] and sorted[k]
+  - sparse    : sparse table over lcp[], so the LCP of any sorted range is
+                one O(1) range-minimum lookup
+  - rankMin / rankMax : segment trees over each input position's sorted
+                rank; the LCP of any set of strings is the LCP of its
+                smallest and largest member, so ranges in input order cost
+                O(log N)
+*/
+public class PrefixIndex {
+    private final String[] sorted;
+    private final int[] lcp;
+    private final int[][] sparse;
+    private final int[] rankMin, rankMax;
+    private final int n;
+
+    public PrefixIndex(String[] strs) {
+        n = strs.length;
+        Integer[] order = new Integer[n];
+        for (int i = 0; i < n; i++)
+            order[i] = i;
+        Arrays.sort(order, (a, b) -> strs[a].compareTo(strs[b]));
+
+        sorted = new String[n];
+        int[] rank = new int[n];
+        for (int k = 0; k < n; k++) {
+            sorted[k] = strs[order[k]];
+            rank[order[k]] = k;
+        }
+
+        lcp = new int[n];
+        for (int k = 1; k < n; k++)
+            lcp[k] = PrefixAccumulator.common(sorted[k - 1], sorted[k], sorted[k - 1].length());
+
+        int levels = 1;
+        while ((1 << levels) <= n)
+            levels++;
+        sparse = new int[levels][];
+        sparse[0] = lcp;
+        for (int j = 1; j < levels; j++) {
+            int half = 1 << (j - 1);
+            int[] prev = sparse[j - 1];
+            int[] cur = new int[n - (1 << j) + 1];
+            for (int i = 0; i < cur.length; i++)
+                cur[i] = Math.min(prev[i], prev[i + half]);
+            sparse[j] = cur;
+        }
+
+        rankMin = new int[2 * n];
+        rankMax = new int[2 * n];
+        for (int i = 0; i < n; i++) {
+            rankMin[n + i] = rank[i];
+            rankMax[n + i] = rank[i];
+        }
+        for (int i = n - 1; i > 0; i--) {
+            rankMin[i] = Math.min(rankMin[2 * i], rankMin[2 * i + 1]);
+            rankMax[i] = Math.max(rankMax[2 * i], rankMax[2 * i + 1]);
+        }
+    }
+
+    public int size() {
+        return n;
+    }
+
+    public String sorted(int k) {
+        return sorted[k];
+    }
+
+    // LCP length of sorted[from..to), O(1).
+    public int sortedRangeLength(int from, int to) {
+        checkRange(from, to);
+        if (from == to)
+            return 0;
+        if (to - from == 1)
+            return sorted[from].length();
+        // min of lcp[from+1 .. to-1]
+        int lo = from + 1, len = to - lo;
+        int j = 31 - Integer.numberOfLeadingZeros(len);
+        return Math.min(sparse[j][lo], sparse[j][to - (1 << j)]);
+    }
+
+    public String sortedRangeLcp(int from, int to) {
+        int len = sortedRangeLength(from, to);
+        return len == 0 ? "" : sorted[from].substring(0, len);
+    }
+
+    // LCP of strs[from..to) in the order the strings were given, O(log N).
+    public String rangeLcp(int from, int to) {
+        checkRange(from, to);
+        if (from == to)
+            return "";
+        int lo = Integer.MAX_VALUE, hi = Integer.MIN_VALUE;
+        for (int l = from + n, r = to + n; l < r; l >>= 1, r >>= 1) {
+            if ((l & 1) == 1) {
+                lo = Math.min(lo, rankMin[l]);
+                hi = Math.max(hi, rankMax[l]);
+                l++;
+            }
+            if ((r & 1) == 1) {
+                r--;
+                lo = Math.min(lo, rankMin[r]);
+                hi = Math.max(hi, rankMax[r]);
+            }
+        }
+        return sortedRangeLcp(lo, hi + 1);
+    }
+
+    // LCP of every string that starts with prefix, O(|prefix| log N).
+    // Returns null when no string starts with prefix.
+    public String groupLcp(String prefix) {
+        int from = lowerBound(prefix);
+        int lo = from, hi = n;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid].startsWith(prefix))
+                lo = mid + 1;
+            else
+                hi = mid;
+        }
+        if (from == lo)
+            return null;
+        return sortedRangeLcp(from, lo);
+    }
+
+    private int lowerBound(String key) {
+        int lo = 0, hi = n;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (sorted[mid].compareTo(key) < 0)
+                lo = mid + 1;
+            else
+                hi = mid;
+        }
+        return lo;
+    }
+
+    private void checkRange(int from, int to) {
+        if (from < 0 || to > n || from > to)
+            throw new IndexOutOfBoundsException("range [" + from + ", " + to + ") of " + n);
+    }
+}
@@ -0,0 +1,19 @@
+import java.io.IOException;
+
+class SignCheck {
+    public static void main(String[] args) throws IOException {
+        FastInput in = new FastInput(System.in);
+        FastOutput out = new FastOutput(System.out);
+        int num;
+        num = in.nextInt();
+        out.print("Enter a number").println(num);
+        if (num > 0) {
+            out.print("Positive").println(num);
+        } else if (num == 0) {
+            out.print("Zero").println(num);
+        } else {
+            out.println("Negitive");
+        }
+        out.flush();
+    }
+}
\ No newline at end of file
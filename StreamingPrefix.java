@@ -0,0 +1,128 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/*
+  StreamingPrefix.java
+
+  Longest common prefix of newline-delimited keys read straight from a
+  file or stdin as bytes. Only the first line is kept (as the prefix
+  candidate); every later line is compared byte by byte against it while
+  it streams past, so no String is built per line and memory stays at one
+  buffer plus the first key. Reading stops as soon as the prefix is empty.
+
+  Lines end at '\n'; a '\r' before it is ignored. A trailing newline does
+  not count as an extra empty line.
+*/
+public class StreamingPrefix {
+    static final int BUFFER_SIZE = 1 << 20;
+    // Files are mapped in windows of this size so keys dumps over 2 GB work.
+    static final long MAP_WINDOW = 1L << 30;
+
+    private byte[] prefix = new byte[64];
+    private int prefixLen;      // current common prefix length
+    private int firstLen;       // bytes of the first line stored in prefix[]
+    private boolean firstLine = true;
+    private boolean sawLine;
+    private int col;            // position within the current line
+    private boolean pendingCr;
+
+    public static String fromFile(Path path, boolean mmap) throws IOException {
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+            StreamingPrefix sp = new StreamingPrefix();
+            if (mmap) {
+                long size = ch.size();
+                for (long pos = 0; pos < size && !sp.done(); pos += MAP_WINDOW)
+                    sp.feed(ch.map(FileChannel.MapMode.READ_ONLY, pos, Math.min(MAP_WINDOW, size - pos)));
+            } else {
+                sp.drain(ch);
+            }
+            return sp.finish();
+        }
+    }
+
+    public static String fromStdin() throws IOException {
+        StreamingPrefix sp = new StreamingPrefix();
+        sp.drain(Channels.newChannel(System.in));
+        return sp.finish();
+    }
+
+    private void drain(ReadableByteChannel ch) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        while (!done() && ch.read(buf) != -1) {
+            buf.flip();
+            feed(buf);
+            buf.clear();
+        }
+    }
+
+    private boolean done() {
+        return sawLine && !firstLine && prefixLen == 0;
+    }
+
+    private void feed(ByteBuffer buf) {
+        while (buf.hasRemaining()) {
+            byte b = buf.get();
+            if (b == '\n') {
+                endLine();
+                continue;
+            }
+            if (pendingCr) {
+                // a lone '\r' inside a line is data
+                pendingCr = false;
+                accept((byte) '\r');
+            }
+            if (b == '\r') {
+                pendingCr = true;
+                continue;
+            }
+            accept(b);
+            if (done())
+                return;
+        }
+    }
+
+    private void accept(byte b) {
+        sawLine = true;
+        if (firstLine) {
+            if (firstLen == prefix.length)
+                prefix = Arrays.copyOf(prefix, prefix.length * 2);
+            prefix[firstLen++] = b;
+        } else if (col < prefixLen && prefix[col] != b) {
+            prefixLen = col;
+        }
+        col++;
+    }
+
+    private void endLine() {
+        pendingCr = false;
+        sawLine = true;
+        if (firstLine) {
+            firstLine = false;
+            prefixLen = firstLen;
+        } else if (col < prefixLen) {
+            prefixLen = col;
+        }
+        col = 0;
+    }
+
+    private String finish() {
+        if (col > 0 || pendingCr) {
+            // last line had no trailing newline
+            pendingCr = false;
+            endLine();
+        }
+        if (firstLine)
+            prefixLen = firstLen;
+        // never split a UTF-8 sequence: back off over continuation bytes
+        while (prefixLen > 0 && prefixLen < firstLen && (prefix[prefixLen] & 0xC0) == 0x80)
+            prefixLen--;
+        return new String(prefix, 0, prefixLen, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,17 @@
+
+import java.io.IOException;
+
+class SwitchCase {
+    public static void main(String[] args) throws IOException {
+        FastOutput out = new FastOutput(System.out);
+        out.println("Switch Case");
+        out.flush();
+        FastInput in = new FastInput(System.in);
+        int a , b;
+        a = in.nextInt();
+        b = in.nextInt();
+       int choice = in.nextInt();
+        out.println(ArithmeticEngine.evaluate(a, b, choice));
+        out.flush();
+    }
+}
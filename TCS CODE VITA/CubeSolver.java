@@ -2,7 +2,7 @@ import java.util.*;
 import java.io.*;
 
 /*
-  Main.java
+  CubeSolver.java
 
   Box Game solution using a 3D cubelet model.
   - Faces indexed as:
@@ -21,7 +21,7 @@ import java.io.*;
       5: BACK  (towards -z)
 */
 
-public class Main {
+public class CubeSolver {
     static final int U = 0, D = 1, L = 2, R = 3, F = 4, B = 5;
 
     static class Cubelet {
@@ -29,7 +29,7 @@ public class Main {
         char[] face = new char[6];
 
         Cubelet() {
-            Arrays.fill(face, 0);
+            Arrays.fill(face, (char) 0);
         }
 
         Cubelet copy() {
@@ -574,11 +574,22 @@ public class Main {
         }
     }
 
-    // Read input and run
-    public static void main(String[] args) throws Exception {
-        FastScanner fs = new FastScanner(System.in);
+    private static String nextNonBlank(FastInput fs) throws IOException {
+        String line;
+        do {
+            line = fs.nextLine();
+            if (line == null)
+                throw new EOFException("puzzle ends early");
+        } while (line.trim().isEmpty());
+        return line;
+    }
+
+    // Read one puzzle and return the answer lines. Synchronized because the
+    // solver keeps the cube size in the static N.
+    static synchronized String solve(InputStream is) throws IOException {
+        FastInput fs = new FastInput(is);
         if (!fs.hasNext()) {
-            return;
+            return "";
         }
         N = fs.nextInt();
         int K = fs.nextInt();
@@ -589,9 +600,7 @@ public class Main {
         for (String nm : names) {
             char[][] f = new char[N][N];
             for (int i = 0; i < N; i++) {
-                String line = fs.nextLine();
-                while (line.trim().isEmpty())
-                    line = fs.nextLine();
+                String line = nextNonBlank(fs);
                 String[] parts = line.trim().split("\\s+");
                 for (int j = 0; j < N; j++)
                     f[i][j] = parts[j].charAt(0);
@@ -601,59 +610,26 @@ public class Main {
 
         List<String> instrs = new ArrayList<>();
         for (int i = 0; i < K; i++) {
-            String line = fs.nextLine();
-            while (line.trim().isEmpty())
-                line = fs.nextLine();
+            String line = nextNonBlank(fs);
             instrs.add(line.trim());
         }
 
         Result res = analyze(faces, instrs);
         if (res.instruction == null) {
-            System.out.println("Not Possible");
+            return "Not Possible\n";
         } else {
             if (res.faulty) {
-                System.out.println("Faulty");
-                System.out.println(res.instruction);
+                return "Faulty\n" + res.instruction + "\n";
             } else {
-                System.out.println(res.instruction);
+                return res.instruction + "\n";
             }
         }
     }
 
-    // Fast scanner
-    static class FastScanner {
-        BufferedReader br;
-        StringTokenizer st;
-
-        FastScanner(InputStream is) {
-            br = new BufferedReader(new InputStreamReader(is));
-        }
-
-        String next() throws IOException {
-            while (st == null || !st.hasMoreTokens()) {
-                String line = br.readLine();
-                if (line == null)
-                    return null;
-                st = new StringTokenizer(line);
-            }
-            return st.nextToken();
-        }
-
-        boolean hasNext() throws IOException {
-            br.mark(1);
-            int c = br.read();
-            if (c == -1)
-                return false;
-            br.reset();
-            return true;
-        }
-
-        int nextInt() throws IOException {
-            return Integer.parseInt(next());
-        }
-
-        String nextLine() throws IOException {
-            return br.readLine();
-        }
+    // Read input and run
+    public static void main(String[] args) throws Exception {
+        FastOutput out = new FastOutput(System.out);
+        out.print(solve(System.in));
+        out.flush();
     }
 }
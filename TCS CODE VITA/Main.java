@@ -1,3 +1,4 @@
+import java.io.IOException;
 import java.util.*;
 
 class Codevita {
@@ -88,7 +89,8 @@ class Codevita {
         return null;
     }
 
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
+        FastOutput out = new FastOutput(System.out);
         int N = 3;
         String[] names = { "base", "back", "top", "front", "left", "right" };
         Map<String, char[][]> cube = new HashMap<>();
@@ -106,16 +108,17 @@ class Codevita {
         moves.add("front 1 left");
 
         if (checkFault(cube)) {
-            System.out.println("Faulty");
+            out.println("Faulty");
             String wrong = findWrong(cube, moves);
             if (wrong != null)
-                System.out.println(wrong);
+                out.println(wrong);
         } else {
             String wrong = findWrong(cube, moves);
             if (wrong != null)
-                System.out.println(wrong);
+                out.println(wrong);
             else
-                System.out.println("Not Possible");
+                out.println("Not Possible");
         }
+        out.flush();
     }
 }
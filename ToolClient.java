@@ -0,0 +1,71 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+  ToolClient.java
+
+  Sends one request to a running ToolServer and prints the answer.
+
+  Usage: java ToolClient [--port N | --unix PATH] <command> [args...]
+  For "cube" the puzzle is read from stdin.
+*/
+public class ToolClient {
+    public static void main(String[] args) throws IOException {
+        SocketAddress addr = new InetSocketAddress(InetAddress.getLoopbackAddress(), ToolServer.DEFAULT_PORT);
+        boolean unix = false;
+        int i = 0;
+        for (; i < args.length; i++) {
+            if (args[i].equals("--port")) {
+                addr = new InetSocketAddress(InetAddress.getLoopbackAddress(), Integer.parseInt(args[++i]));
+            } else if (args[i].equals("--unix")) {
+                addr = UnixDomainSocketAddress.of(Paths.get(args[++i]));
+                unix = true;
+            } else {
+                break;
+            }
+        }
+        if (i == args.length) {
+            System.err.println("usage: ToolClient [--port N | --unix PATH] <command> [args...]");
+            System.exit(2);
+        }
+
+        StringBuilder req = new StringBuilder(String.join(" ", List.of(args).subList(i, args.length)));
+        if (args[i].equals("cube")) {
+            List<String> lines = new ArrayList<>();
+            BufferedReader stdin = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+            String l;
+            while ((l = stdin.readLine()) != null)
+                lines.add(l);
+            req.append(' ').append(lines.size());
+            for (String s : lines)
+                req.append('\n').append(s);
+        }
+        req.append('\n');
+
+        try (SocketChannel ch = unix ? SocketChannel.open(StandardProtocolFamily.UNIX) : SocketChannel.open()) {
+            ch.connect(addr);
+            OutputStream out = Channels.newOutputStream(ch);
+            out.write(req.toString().getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            BufferedReader in = new BufferedReader(new InputStreamReader(Channels.newInputStream(ch), StandardCharsets.UTF_8));
+            FastOutput stdout = new FastOutput(System.out);
+            String line;
+            while ((line = in.readLine()) != null && !line.equals("."))
+                stdout.println(line.startsWith("..") ? line.substring(1) : line);
+            stdout.flush();
+        }
+    }
+}
@@ -0,0 +1,178 @@
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.StringReader;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/*
+  ToolServer.java
+
+  Keeps one JVM resident and serves the tools over a local socket, so a
+  request pays for a round trip instead of a JVM start and a cold JIT.
+
+  Usage: java ToolServer [--port N | --unix PATH] [--no-warmup]
+         (default: TCP on 127.0.0.1:7070)
+
+  Protocol, one request per line, any number per connection:
+    parity <n>                   -> Even | Odd               (Details)
+    search <target> <a0> <a1>..  -> index or -1              (LinearSearch)
+    lcp <s0> <s1> ..             -> common prefix            (longestCP)
+    cube <k>  + k input lines    -> solver output            (CubeSolver)
+  Every response is its answer lines followed by a line holding only
+  ".". Answer lines that start with "." get one extra "." in front,
+  which the client strips. Failures, including a malformed cube
+  puzzle, answer "ERR <message>" and keep the connection open; only
+  socket errors or end of input end it.
+
+  Each connection gets its own thread: a virtual thread when the JVM has
+  them (21+), otherwise a pooled platform thread.
+*/
+public class ToolServer {
+    static final int DEFAULT_PORT = 7070;
+    static final int WARMUP_ROUNDS = 20_000;
+
+    // Consumed by warmUp so the JIT cannot drop the calls.
+    static long sink;
+
+    // Reflective so this still compiles for 17; native images need the
+    // lookup registered in native-image/reflect-config.json.
+    static ExecutorService newExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    // Answers one request; reads the payload for "cube" from in.
+    static String handle(String line, BufferedReader in) throws IOException {
+        String[] p = line.trim().split("\\s+");
+        switch (p[0]) {
+            case "parity":
+                return NumberClassifier.parity(Integer.parseInt(p[1]));
+            case "search": {
+                int[] arr = new int[p.length - 2];
+                for (int i = 0; i < arr.length; i++)
+                    arr[i] = Integer.parseInt(p[i + 2]);
+                return String.valueOf(LinearSearch.linearSearch(arr, Integer.parseInt(p[1])));
+            }
+            case "lcp":
+                return longestCP.longestCommonPrefix(Arrays.copyOfRange(p, 1, p.length));
+            case "cube": {
+                int k = Integer.parseInt(p[1]);
+                StringBuilder sb = new StringBuilder();
+                for (int i = 0; i < k; i++) {
+                    String l = in.readLine();
+                    if (l == null)
+                        throw new IOException("cube: expected " + k + " lines, got " + i);
+                    sb.append(l).append('\n');
+                }
+                String out;
+                try {
+                    out = CubeSolver.solve(new ByteArrayInputStream(sb.toString().getBytes(StandardCharsets.UTF_8)));
+                } catch (IOException e) {
+                    // a malformed puzzle, not a broken connection
+                    throw new IllegalArgumentException("cube: " + e.getMessage(), e);
+                }
+                return out.endsWith("\n") ? out.substring(0, out.length() - 1) : out;
+            }
+            default:
+                throw new IllegalArgumentException("unknown command: " + p[0]);
+        }
+    }
+
+    static void serve(SocketChannel ch) {
+        try (ch;
+                BufferedReader in = new BufferedReader(new InputStreamReader(Channels.newInputStream(ch), StandardCharsets.UTF_8));
+                Writer out = new BufferedWriter(new OutputStreamWriter(Channels.newOutputStream(ch), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.isBlank())
+                    continue;
+                String answer;
+                try {
+                    answer = handle(line, in);
+                } catch (RuntimeException e) {
+                    answer = "ERR " + e;
+                }
+                for (String l : answer.split("\n", -1)) {
+                    if (l.startsWith("."))
+                        out.write('.');
+                    out.write(l);
+                    out.write('\n');
+                }
+                out.write(".\n");
+                out.flush();
+            }
+        } catch (IOException e) {
+            System.err.println("connection: " + e);
+        }
+    }
+
+    // Runs every operation enough times for C2 to compile the hot paths
+    // before the first real request arrives.
+    static void warmUp() throws IOException {
+        BufferedReader cube = new BufferedReader(new StringReader(""));
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            sink += handle("parity " + i, cube).length();
+            sink += handle("search " + (i & 31) + " 1 3 5 7 9 11 13 15 17 19 21", cube).length();
+            sink += handle("lcp flower flow flight", cube).length();
+        }
+        String puzzle = "2 1\nR R\nR R\nG G\nG G\nB B\nB B\nY Y\nY Y\nO O\nO O\nW W\nW W\nturn left\n";
+        String header = "cube " + puzzle.split("\n").length;
+        for (int i = 0; i < 200; i++)
+            sink += handle(header, new BufferedReader(new StringReader(puzzle))).length();
+    }
+
+    public static void main(String[] args) throws Exception {
+        int port = DEFAULT_PORT;
+        Path unix = null;
+        boolean warm = true;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--port"))
+                port = Integer.parseInt(args[++i]);
+            else if (args[i].equals("--unix"))
+                unix = Paths.get(args[++i]);
+            else if (args[i].equals("--no-warmup"))
+                warm = false;
+        }
+        if (warm)
+            warmUp();
+
+        SocketAddress addr;
+        ServerSocketChannel server;
+        if (unix != null) {
+            Files.deleteIfExists(unix);
+            addr = UnixDomainSocketAddress.of(unix);
+            server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        } else {
+            addr = new InetSocketAddress(InetAddress.getLoopbackAddress(), port);
+            server = ServerSocketChannel.open();
+        }
+        server.bind(addr);
+        System.err.println("listening on " + addr);
+        ExecutorService pool = newExecutor();
+        while (true) {
+            SocketChannel ch = server.accept();
+            pool.execute(() -> serve(ch));
+        }
+    }
+}
@@ -0,0 +1,17 @@
+import java.io.IOException;
+
+class VowelCheck {
+    public static void main(String[] args) throws IOException {
+        FastInput in = new FastInput(System.in);
+        FastOutput out = new FastOutput(System.out);
+        String letter;
+        letter = in.next();
+        out.println("Calculator");
+        if (letter != null && letter.length() == 1 && VowelClassifier.isVowel(letter.charAt(0))) {
+            out.println("Vowel");
+        } else {
+            out.println("Consonent");
+        }
+        out.flush();
+    }
+}
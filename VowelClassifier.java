@@ -0,0 +1,100 @@
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/*
+  VowelClassifier.java
+
+  Vowel/consonant lookup by table instead of string comparison. Each of
+  the 256 byte values maps to 1 or 0 in VOWEL[] and CONSONANT[], so
+  counting a buffer is two table loads and two adds per byte with no
+  branches. Only ASCII letters are classified; everything else (digits,
+  punctuation, UTF-8 continuation bytes) counts as neither.
+
+  Usage: java VowelClassifier [--mmap] [file]   (stdin when no file)
+*/
+public class VowelClassifier {
+    static final int BUFFER_SIZE = 1 << 16;
+    static final long MAP_WINDOW = 1L << 30;
+
+    static final byte[] VOWEL = new byte[256];
+    static final byte[] CONSONANT = new byte[256];
+
+    static {
+        for (char c = 'a'; c <= 'z'; c++) {
+            boolean v = "aeiou".indexOf(c) >= 0;
+            VOWEL[c] = VOWEL[c - 'a' + 'A'] = (byte) (v ? 1 : 0);
+            CONSONANT[c] = CONSONANT[c - 'a' + 'A'] = (byte) (v ? 0 : 1);
+        }
+    }
+
+    public static boolean isVowel(char c) {
+        return c < 128 && VOWEL[c] != 0;
+    }
+
+    public static boolean isConsonant(char c) {
+        return c < 128 && CONSONANT[c] != 0;
+    }
+
+    long vowels, consonants;
+
+    void count(byte[] buf, int off, int len) {
+        long v = 0, c = 0;
+        for (int i = off; i < off + len; i++) {
+            int b = buf[i] & 0xFF;
+            v += VOWEL[b];
+            c += CONSONANT[b];
+        }
+        vowels += v;
+        consonants += c;
+    }
+
+    // Bulk-copies the mapping out in blocks: a memcpy plus the array loop
+    // is much faster than one bounds-checked buf.get(i) per byte.
+    void count(MappedByteBuffer buf, byte[] scratch) {
+        while (buf.hasRemaining()) {
+            int n = Math.min(scratch.length, buf.remaining());
+            buf.get(scratch, 0, n);
+            count(scratch, 0, n);
+        }
+    }
+
+    void count(InputStream in) throws IOException {
+        byte[] buf = new byte[BUFFER_SIZE];
+        int n;
+        while ((n = in.read(buf)) != -1)
+            count(buf, 0, n);
+    }
+
+    void countMapped(String file) throws IOException {
+        try (FileChannel ch = FileChannel.open(Paths.get(file), StandardOpenOption.READ)) {
+            long size = ch.size();
+            byte[] scratch = new byte[BUFFER_SIZE];
+            for (long pos = 0; pos < size; pos += MAP_WINDOW)
+                count(ch.map(FileChannel.MapMode.READ_ONLY, pos, Math.min(MAP_WINDOW, size - pos)), scratch);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        boolean mmap = args.length > 0 && args[0].equals("--mmap");
+        String file = args.length > (mmap ? 1 : 0) ? args[args.length - 1] : null;
+        VowelClassifier vc = new VowelClassifier();
+        if (file == null || file.equals("-")) {
+            vc.count(System.in);
+        } else if (mmap) {
+            vc.countMapped(file);
+        } else {
+            try (InputStream in = new FileInputStream(file)) {
+                vc.count(in);
+            }
+        }
+        FastOutput out = new FastOutput(System.out);
+        out.print("vowels ").println(vc.vowels);
+        out.print("consonants ").println(vc.consonants);
+        out.flush();
+    }
+}
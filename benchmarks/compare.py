@@ -0,0 +1,87 @@
+#!/usr/bin/env python3
+"""Compare a JMH JSON result file against a stored baseline.
+
+Usage: compare.py BASELINE RESULT [--threshold PERCENT]
+
+Benchmarks are matched by name and parameters. For time-per-op modes a
+higher score is worse; for throughput a lower score is worse. A benchmark
+regresses when it is worse by more than the threshold (default 10%) and
+its confidence interval (score +/- scoreError) no longer overlaps the
+baseline's, so run-to-run noise alone does not fail the gate. Exits 1 on
+any regression, or if a baseline benchmark is missing from the result;
+record a new baseline (perf-gate.sh --update) when benchmarks are removed
+or renamed.
+"""
+import argparse
+import json
+import math
+import sys
+
+
+def load(path):
+    with open(path) as f:
+        runs = json.load(f)
+    scores = {}
+    for run in runs:
+        params = run.get("params") or {}
+        key = run["benchmark"]
+        if params:
+            key += "(" + ", ".join(f"{k}={v}" for k, v in sorted(params.items())) + ")"
+        metric = run["primaryMetric"]
+        # scoreError is NaN when there were too few iterations for an interval
+        error = metric.get("scoreError", 0.0)
+        if not isinstance(error, (int, float)) or math.isnan(error):
+            error = 0.0
+        scores[key] = (run["mode"], metric["score"], error, metric["scoreUnit"])
+    return scores
+
+
+def main():
+    ap = argparse.ArgumentParser()
+    ap.add_argument("baseline")
+    ap.add_argument("result")
+    ap.add_argument("--threshold", type=float, default=10.0)
+    args = ap.parse_args()
+
+    base = load(args.baseline)
+    cur = load(args.result)
+    failed = []
+    for key in sorted(cur):
+        mode, score, err, unit = cur[key]
+        if key not in base:
+            print(f"  new       {key}: {score:.3f} {unit}")
+            continue
+        _, old, old_err, old_unit = base[key]
+        if old_unit != unit or old == 0:
+            print(f"  skipped   {key}: unit changed ({old_unit} -> {unit})")
+            continue
+        change = (score - old) / old * 100
+        worse = -change if mode == "thrpt" else change
+        if mode == "thrpt":
+            apart = score + err < old - old_err
+        else:
+            apart = score - err > old + old_err
+        if worse <= args.threshold:
+            status = "ok"
+        elif apart:
+            status = "REGRESSED"
+            failed.append(key)
+        else:
+            status = "noisy"
+        print(f"  {status:<9} {key}: {old:.3f} +- {old_err:.3f} -> {score:.3f} +- {err:.3f} {unit} ({change:+.1f}%)")
+    missing = sorted(set(base) - set(cur))
+    for key in missing:
+        print(f"  MISSING   {key}")
+
+    if failed:
+        print(f"{len(failed)} benchmark(s) regressed by more than {args.threshold:g}%")
+    if missing:
+        print(f"{len(missing)} baseline benchmark(s) missing from the result")
+    if failed or missing:
+        return 1
+    print("no regressions")
+    return 0
+
+
+if __name__ == "__main__":
+    sys.exit(main())
@@ -0,0 +1,34 @@
+#!/bin/sh
+# Builds the project, runs the JMH suite and compares it with the stored
+# baseline; exits non-zero if anything got slower than the threshold.
+#
+#   benchmarks/perf-gate.sh                  compare (10% threshold)
+#   benchmarks/perf-gate.sh --threshold 5    compare with a 5% threshold
+#   benchmarks/perf-gate.sh --update         record a new baseline
+#
+# JMH options come from JMH_OPTS, default "-f 3": three forks instead of
+# the benchmarks' single fork, so the error bars compare.py checks cover
+# JIT and layout variance between JVMs. Use the same options for the
+# baseline and the gate. A benchmark missing from the result fails the
+# gate; record a new baseline after removing or renaming one.
+# Baselines are machine-specific: record one on the machine that runs
+# the gate.
+set -e
+cd "$(dirname "$0")/.."
+
+baseline=benchmarks/baseline.json
+result=benchmarks/target/jmh-result.json
+
+mvn -B -q package -DskipTests
+java -jar benchmarks/target/benchmarks.jar ${JMH_OPTS--f 3} -rf json -rff "$result"
+
+if [ "$1" = "--update" ]; then
+    cp "$result" "$baseline"
+    echo "baseline updated: $baseline"
+    exit 0
+fi
+if [ ! -f "$baseline" ]; then
+    echo "no baseline at $baseline; run with --update first" >&2
+    exit 2
+fi
+python3 benchmarks/compare.py "$baseline" "$result" "$@"
@@ -0,0 +1,94 @@
+package bench;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+// The number classifiers over 1M ints: per-value labels, columnar
+// leap-year/parity bitsets, and NumberStats aggregation from a file.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClassifierBench {
+    static final int COUNT = 1_000_000;
+
+    static final MethodHandle PARITY = Programs.method("NumberClassifier", "parity",
+            MethodType.methodType(String.class, int.class));
+    static final MethodHandle SIGN = Programs.method("NumberClassifier", "sign",
+            MethodType.methodType(String.class, int.class));
+    static final MethodHandle LEAP_YEARS = Programs.method("ColumnClassifier", "leapYears",
+            MethodType.methodType(long[].class, int[].class));
+    static final MethodHandle EVENS = Programs.method("ColumnClassifier", "evens",
+            MethodType.methodType(long[].class, int[].class));
+    static final MethodHandle STATS = Programs.method("NumberStats", "of",
+            MethodType.methodType(Programs.type("NumberStats"), Path.class))
+            .asType(MethodType.methodType(Object.class, Path.class));
+
+    int[] values;
+    int[] years;
+    Path file;
+
+    @Setup
+    public void setup() throws IOException {
+        Random r = new Random(42);
+        values = new int[COUNT];
+        years = new int[COUNT];
+        StringBuilder sb = new StringBuilder(COUNT * 8);
+        for (int i = 0; i < COUNT; i++) {
+            values[i] = r.nextInt(2_000_000) - 1_000_000;
+            years[i] = 1600 + r.nextInt(800);
+            sb.append(values[i]).append(i % 16 == 15 ? '\n' : ' ');
+        }
+        file = Files.createTempFile("classifier-bench", ".txt");
+        Files.write(file, sb.toString().getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public void perValue(Blackhole bh) throws Throwable {
+        for (int v : values) {
+            bh.consume((String) PARITY.invokeExact(v));
+            bh.consume((String) SIGN.invokeExact(v));
+        }
+    }
+
+    @Benchmark
+    public long[] leapYears() throws Throwable {
+        return (long[]) LEAP_YEARS.invokeExact(years);
+    }
+
+    @Benchmark
+    public long[] evens() throws Throwable {
+        return (long[]) EVENS.invokeExact(values);
+    }
+
+    @Benchmark
+    public Object stats() throws Throwable {
+        return (Object) STATS.invokeExact(file);
+    }
+}
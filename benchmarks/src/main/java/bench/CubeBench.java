@@ -0,0 +1,63 @@
+package bench;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// CubeSolver.analyze on a scrambled 3x3 cube with no solution, so it
+// runs the full skip-one-instruction and single-faulty-cell search.
+// Only row/column moves are used: whole-cube turns can leave a face of
+// blank facelets, which counts as uniform and ends the search early.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CubeBench {
+    static final int N = 3;
+
+    static final MethodHandle SET_N = Programs.setter("CubeSolver", "N", int.class);
+    static final MethodHandle ANALYZE = Programs.method("CubeSolver", "analyze",
+            MethodType.methodType(Programs.type("CubeSolver$Result"), Map.class, List.class))
+            .asType(MethodType.methodType(Object.class, Map.class, List.class));
+
+    Map<String, char[][]> faces;
+    List<String> instrs;
+
+    @Setup
+    public void setup() throws Throwable {
+        SET_N.invokeExact(N);
+        Random r = new Random(42);
+        String colors = "RGBYOW";
+        faces = new HashMap<>();
+        for (String name : new String[] { "base", "back", "top", "front", "left", "right" }) {
+            char[][] f = new char[N][N];
+            for (char[] row : f)
+                for (int j = 0; j < N; j++)
+                    row[j] = colors.charAt(r.nextInt(colors.length()));
+            faces.put(name, f);
+        }
+        instrs = List.of("front 2 right", "top 1 up", "left 3 down", "right 2 left");
+    }
+
+    @Benchmark
+    public Object analyze() throws Throwable {
+        return (Object) ANALYZE.invokeExact(faces, instrs);
+    }
+}
@@ -0,0 +1,102 @@
+package bench;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// FastInput/FastOutput against java.util.Scanner and System.out-style
+// println on the same in-memory data, so only parsing and formatting
+// are measured.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IoBench {
+    static final MethodHandle NEW_INPUT = Programs.constructor("FastInput",
+            MethodType.methodType(void.class, InputStream.class))
+            .asType(MethodType.methodType(Object.class, InputStream.class));
+    static final MethodHandle HAS_NEXT = Programs.virtual("FastInput", "hasNext",
+            MethodType.methodType(boolean.class))
+            .asType(MethodType.methodType(boolean.class, Object.class));
+    static final MethodHandle NEXT_INT = Programs.virtual("FastInput", "nextInt",
+            MethodType.methodType(int.class))
+            .asType(MethodType.methodType(int.class, Object.class));
+    static final MethodHandle NEW_OUTPUT = Programs.constructor("FastOutput",
+            MethodType.methodType(void.class, OutputStream.class))
+            .asType(MethodType.methodType(Object.class, OutputStream.class));
+    static final MethodHandle PRINTLN = Programs.virtual("FastOutput", "println",
+            MethodType.methodType(Programs.type("FastOutput"), long.class))
+            .asType(MethodType.methodType(void.class, Object.class, long.class));
+    static final MethodHandle FLUSH = Programs.virtual("FastOutput", "flush",
+            MethodType.methodType(void.class))
+            .asType(MethodType.methodType(void.class, Object.class));
+
+    @Param({ "100000", "1000000" })
+    int tokens;
+
+    byte[] data;
+
+    @Setup
+    public void setup() {
+        Random r = new Random(42);
+        StringBuilder sb = new StringBuilder(tokens * 8);
+        for (int i = 0; i < tokens; i++)
+            sb.append(r.nextInt(2_000_000) - 1_000_000).append(i % 16 == 15 ? '\n' : ' ');
+        data = sb.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Benchmark
+    public long readScanner() {
+        Scanner sc = new Scanner(new ByteArrayInputStream(data));
+        long sum = 0;
+        while (sc.hasNextInt())
+            sum += sc.nextInt();
+        return sum;
+    }
+
+    @Benchmark
+    public long readFast() throws Throwable {
+        Object in = (Object) NEW_INPUT.invokeExact((InputStream) new ByteArrayInputStream(data));
+        long sum = 0;
+        while ((boolean) HAS_NEXT.invokeExact(in))
+            sum += (int) NEXT_INT.invokeExact(in);
+        return sum;
+    }
+
+    @Benchmark
+    public void writePrintln() {
+        PrintStream out = new PrintStream(OutputStream.nullOutputStream());
+        for (int i = 0; i < tokens; i++)
+            out.println(i - tokens / 2);
+        out.flush();
+    }
+
+    @Benchmark
+    public void writeFast() throws Throwable {
+        Object out = (Object) NEW_OUTPUT.invokeExact(OutputStream.nullOutputStream());
+        for (int i = 0; i < tokens; i++)
+            PRINTLN.invokeExact(out, (long) (i - tokens / 2));
+        FLUSH.invokeExact(out);
+    }
+}
@@ -0,0 +1,48 @@
+package bench;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// longestCP.longestCommonPrefix over keys sharing a 12-char prefix.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PrefixBench {
+    static final MethodHandle LCP = Programs.method("longestCP", "longestCommonPrefix",
+            MethodType.methodType(String.class, String[].class));
+
+    @Param({ "1000", "100000" })
+    int count;
+
+    String[] keys;
+
+    @Setup
+    public void setup() {
+        Random r = new Random(42);
+        keys = new String[count];
+        for (int i = 0; i < count; i++)
+            keys[i] = "tenant/2024/" + Long.toString(r.nextLong() & Long.MAX_VALUE, 36);
+    }
+
+    @Benchmark
+    public String longestCommonPrefix() throws Throwable {
+        return (String) LCP.invokeExact(keys);
+    }
+}
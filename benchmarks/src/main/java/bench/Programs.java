@@ -0,0 +1,65 @@
+package bench;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/*
+  The programs live in the unnamed package, which Java code in a named
+  package cannot import (and JMH refuses benchmarks in the unnamed
+  package). Benchmarks reach them through method handles instead; a
+  handle held in a static final field is a JIT constant, so invokeExact
+  through it is inlined like a direct call.
+*/
+final class Programs {
+    private Programs() {
+    }
+
+    static Class<?> type(String name) {
+        try {
+            return Class.forName(name);
+        } catch (ClassNotFoundException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    static MethodHandles.Lookup lookup(Class<?> c) throws IllegalAccessException {
+        return MethodHandles.privateLookupIn(c, MethodHandles.lookup());
+    }
+
+    static MethodHandle method(String cls, String name, MethodType type) {
+        try {
+            Class<?> c = type(cls);
+            return lookup(c).findStatic(c, name, type);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    static MethodHandle constructor(String cls, MethodType type) {
+        try {
+            Class<?> c = type(cls);
+            return lookup(c).findConstructor(c, type);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    static MethodHandle virtual(String cls, String name, MethodType type) {
+        try {
+            Class<?> c = type(cls);
+            return lookup(c).findVirtual(c, name, type);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    static MethodHandle setter(String cls, String field, Class<?> type) {
+        try {
+            Class<?> c = type(cls);
+            return lookup(c).findStaticSetter(c, field, type);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package bench;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+// LinearSearch.linearSearch on a hit in the middle and on a miss, against
+// the loop Siddu shipped with before the searches were shared.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class SearchBench {
+    static final MethodHandle LINEAR_SEARCH = Programs.method("LinearSearch", "linearSearch",
+            MethodType.methodType(int.class, int[].class, int.class));
+
+    @Param({ "16", "1024" })
+    int size;
+
+    int[] arr;
+    int hit;
+
+    @Setup
+    public void setup() {
+        arr = new int[size];
+        for (int i = 0; i < size; i++)
+            arr[i] = 2 * i + 1;
+        hit = arr[size / 2];
+    }
+
+    // `i <= arr.length` means every miss ends in an
+    // ArrayIndexOutOfBoundsException, which is caught to return -1.
+    static int oldSidduSearch(int[] arr, int target) {
+        if (arr.length == 0)
+            return -1;
+        try {
+            for (int i = 0; i <= arr.length; i++) {
+                if (arr[i] == target)
+                    return i;
+            }
+        } catch (ArrayIndexOutOfBoundsException e) {
+            return -1;
+        }
+        return -1;
+    }
+
+    @Benchmark
+    public int oldHit() {
+        return oldSidduSearch(arr, hit);
+    }
+
+    @Benchmark
+    public int oldMiss() {
+        return oldSidduSearch(arr, 0);
+    }
+
+    @Benchmark
+    public int hit() throws Throwable {
+        return (int) LINEAR_SEARCH.invokeExact(arr, hit);
+    }
+
+    @Benchmark
+    public int miss() throws Throwable {
+        return (int) LINEAR_SEARCH.invokeExact(arr, 0);
+    }
+}
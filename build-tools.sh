@@ -0,0 +1,28 @@
+#!/bin/sh
+# Builds out/tools.jar with Launcher as the entry point, then records an
+# AppCDS archive (out/tools.jsa) from a training run so later starts map
+# the already-parsed classes instead of loading them from the jar.
+#
+#   ./build-tools.sh            jar + CDS archive
+#   ./build-tools.sh --native   also a GraalVM native image (out/tools)
+#
+# Run the result with ./tools <command> [args...].
+set -e
+cd "$(dirname "$0")"
+
+rm -rf out
+mkdir -p out/classes
+javac -d out/classes *.java "TCS CODE VITA"/*.java
+jar --create --file out/tools.jar --main-class Launcher -C out/classes .
+
+# The archive must be created with the same flags it is used with.
+java -XX:ArchiveClassesAtExit=out/tools.jsa -XX:+UseSerialGC -jar out/tools.jar --train
+
+if [ "$1" = "--native" ]; then
+    # ToolServer.newExecutor looks up newVirtualThreadPerTaskExecutor
+    # reflectively; without this registration the image would always fall
+    # back to the cached thread pool. No resources are used.
+    native-image --no-fallback -XX:+UseSerialGC \
+        -H:ReflectionConfigurationFiles=native-image/reflect-config.json \
+        -jar out/tools.jar -o out/tools
+fi
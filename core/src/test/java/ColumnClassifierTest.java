@@ -0,0 +1,86 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/*
+  ColumnClassifierTest.java
+
+  The branch-free leap test and the lane packing against the textbook
+  rule, bit by bit. Lengths around 64 and BLOCK catch a half-filled last
+  word or block.
+*/
+class ColumnClassifierTest {
+    static final int[] LENGTHS = { 0, 1, 31, 32, 33, 63, 64, 65, 4095, 4096, 4097, 3 * 4096 + 100 };
+
+    private static boolean textbookLeap(int y) {
+        return (y % 4 == 0 && y % 100 != 0) || y % 400 == 0;
+    }
+
+    @Test
+    void isLeapYearOverAWideRange() {
+        for (int y = -1_000_000; y <= 1_000_000; y++)
+            assertEquals(textbookLeap(y), ColumnClassifier.isLeapYear(y), "year " + y);
+    }
+
+    @Test
+    void isLeapYearAtTheIntExtremes() {
+        for (int d = 0; d <= 100_000; d++) {
+            int lo = Integer.MIN_VALUE + d, hi = Integer.MAX_VALUE - d;
+            assertEquals(textbookLeap(lo), ColumnClassifier.isLeapYear(lo), "year " + lo);
+            assertEquals(textbookLeap(hi), ColumnClassifier.isLeapYear(hi), "year " + hi);
+        }
+    }
+
+    @Test
+    void isLeapYearAtRandom() {
+        Random r = new Random(7);
+        for (int i = 0; i < 2_000_000; i++) {
+            int y = r.nextInt();
+            assertEquals(textbookLeap(y), ColumnClassifier.isLeapYear(y), "year " + y);
+        }
+    }
+
+    @Test
+    void leapYearBitsets() {
+        Random r = new Random(1);
+        for (int n : LENGTHS) {
+            int[] years = new int[n];
+            for (int i = 0; i < n; i++)
+                years[i] = i % 5 == 0 ? r.nextInt() : 1500 + r.nextInt(1000);
+            long[] bits = ColumnClassifier.leapYears(years);
+            assertEquals((n + 63) / 64, bits.length, "words for " + n);
+            int expected = 0;
+            for (int i = 0; i < n; i++) {
+                boolean leap = textbookLeap(years[i]);
+                assertEquals(leap, ColumnClassifier.get(bits, i), "length " + n + ", index " + i);
+                if (leap)
+                    expected++;
+            }
+            // no stray bits past the end
+            assertEquals(expected, ColumnClassifier.count(bits), "count for " + n);
+        }
+    }
+
+    @Test
+    void evenBitsets() {
+        Random r = new Random(2);
+        for (int n : LENGTHS) {
+            int[] values = new int[n];
+            for (int i = 0; i < n; i++)
+                values[i] = i % 7 == 0 ? (i % 2 == 0 ? Integer.MIN_VALUE : Integer.MAX_VALUE) : r.nextInt();
+            long[] bits = ColumnClassifier.evens(values);
+            assertEquals((n + 63) / 64, bits.length, "words for " + n);
+            int expected = 0;
+            for (int i = 0; i < n; i++) {
+                boolean even = values[i] % 2 == 0;
+                assertEquals(even, ColumnClassifier.get(bits, i), "length " + n + ", index " + i);
+                assertEquals(even, ColumnClassifier.isEven(values[i]));
+                if (even)
+                    expected++;
+            }
+            assertEquals(expected, ColumnClassifier.count(bits), "count for " + n);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+/*
+  FastInputTest.java
+
+  Most inputs are also fed one byte per read(), so every token and line
+  straddles a buffer refill.
+*/
+class FastInputTest {
+    private static FastInput of(byte[] data, boolean trickle) {
+        InputStream in = new ByteArrayInputStream(data);
+        if (trickle) {
+            in = new InputStream() {
+                final ByteArrayInputStream src = new ByteArrayInputStream(data);
+
+                @Override
+                public int read() {
+                    return src.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return src.read(b, off, Math.min(len, 1));
+                }
+            };
+        }
+        return new FastInput(in);
+    }
+
+    private static FastInput[] both(String text) {
+        byte[] data = text.getBytes(StandardCharsets.UTF_8);
+        return new FastInput[] { of(data, false), of(data, true) };
+    }
+
+    @Test
+    void intExtremes() throws IOException {
+        for (FastInput in : both("2147483647 -2147483648 0 -0\n")) {
+            assertEquals(Integer.MAX_VALUE, in.nextInt());
+            assertEquals(Integer.MIN_VALUE, in.nextInt());
+            assertEquals(0, in.nextInt());
+            assertEquals(0, in.nextInt());
+            assertFalse(in.hasNext());
+        }
+    }
+
+    @Test
+    void longExtremes() throws IOException {
+        for (FastInput in : both("9223372036854775807 -9223372036854775808 3000000000")) {
+            assertEquals(Long.MAX_VALUE, in.nextLong());
+            assertEquals(Long.MIN_VALUE, in.nextLong());
+            assertEquals(3_000_000_000L, in.nextLong());
+        }
+    }
+
+    @Test
+    void overflow() {
+        for (String bad : new String[] { "2147483648", "-2147483649", "99999999999" })
+            for (FastInput in : both(bad))
+                assertThrows(NumberFormatException.class, in::nextInt, bad);
+        for (String bad : new String[] { "9223372036854775808", "-9223372036854775809" })
+            for (FastInput in : both(bad))
+                assertThrows(NumberFormatException.class, in::nextLong, bad);
+    }
+
+    @Test
+    void leadingPlus() throws IOException {
+        for (FastInput in : both("+7 +0 +2147483647 +0005")) {
+            assertEquals(7, in.nextInt());
+            assertEquals(0, in.nextInt());
+            assertEquals(Integer.MAX_VALUE, in.nextInt());
+            assertEquals(5, in.nextLong());
+        }
+        for (String bad : new String[] { "+", "+ 1", "-", "+-1", "--1", "1-", "12a" })
+            for (FastInput in : both(bad))
+                assertThrows(NumberFormatException.class, in::nextInt, bad);
+    }
+
+    @Test
+    void highBytes() throws IOException {
+        // 0xA0 (non-breaking space in Latin-1) is not whitespace here
+        FastInput in = of(new byte[] { (byte) 0xA0, '5' }, false);
+        assertTrue(in.hasNext());
+        assertThrows(NumberFormatException.class, in::nextInt);
+
+        in = of(new byte[] { '5', (byte) 0xFF }, true);
+        assertThrows(NumberFormatException.class, in::nextInt);
+
+        for (FastInput t : both("héllo wörld\n€\n")) {
+            assertEquals("héllo", t.next());
+            assertEquals("wörld", t.next());
+            assertEquals("€", t.next());
+            assertNull(t.next());
+        }
+    }
+
+    @Test
+    void nextIntThenNextLine() throws IOException {
+        for (FastInput in : both("12 rest of line\nnext\n5\nabc")) {
+            assertEquals(12, in.nextInt());
+            assertEquals(" rest of line", in.nextLine());
+            assertEquals("next", in.nextLine());
+            assertEquals(5, in.nextInt());
+            assertEquals("", in.nextLine());
+            assertEquals("abc", in.nextLine());
+            assertNull(in.nextLine());
+        }
+    }
+
+    @Test
+    void crlf() throws IOException {
+        for (FastInput in : both("one\r\ntwo\r\n\r\n3\r\n4\r\n")) {
+            assertEquals("one", in.nextLine());
+            assertEquals("two", in.nextLine());
+            assertEquals("", in.nextLine());
+            assertEquals(3, in.nextInt());
+            assertEquals("", in.nextLine());
+            assertEquals(4, in.nextInt());
+            assertFalse(in.hasNext());
+        }
+    }
+
+    @Test
+    void endOfInput() throws IOException {
+        for (FastInput in : both("")) {
+            assertFalse(in.hasNext());
+            assertNull(in.next());
+            assertNull(in.nextLine());
+            assertThrows(EOFException.class, in::nextInt);
+            assertThrows(EOFException.class, in::nextLong);
+        }
+        for (FastInput in : both("7 \n \n")) {
+            assertEquals(7, in.nextInt());
+            assertFalse(in.hasNext());
+            assertThrows(EOFException.class, in::nextInt);
+            assertNull(in.nextLine());
+        }
+        for (FastInput in : both("last\n")) {
+            assertEquals("last", in.nextLine());
+            assertNull(in.nextLine());
+        }
+    }
+
+    @Test
+    void tokensAcrossBufferRefills() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        long sum = 0;
+        for (int i = 0; i < 40_000; i++) {
+            int v = i * 7919 - 150_000_000;
+            sb.append(v).append(i % 10 == 9 ? '\n' : ' ');
+            sum += v;
+        }
+        byte[] data = sb.toString().getBytes(StandardCharsets.US_ASCII);
+        assertTrue(data.length > 4 * FastInput.BUFFER_SIZE);
+        FastInput in = of(data, false);
+        long got = 0;
+        while (in.hasNext())
+            got += in.nextInt();
+        assertEquals(sum, got);
+    }
+}
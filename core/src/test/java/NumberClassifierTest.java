@@ -0,0 +1,31 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+class NumberClassifierTest {
+    private static String classify(String input, int modes) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        FastOutput out = new FastOutput(bytes);
+        NumberClassifier.classify(new FastInput(new ByteArrayInputStream(input.getBytes(StandardCharsets.US_ASCII))), out, modes);
+        out.flush();
+        return bytes.toString(StandardCharsets.US_ASCII);
+    }
+
+    @Test
+    void largestCoversAPartialGroup() throws Exception {
+        assertEquals("Largest 3\nLargest 4\n", classify("1 2 3 4", NumberClassifier.LARGEST));
+        assertEquals("Largest 3\nLargest 9\n", classify("3 -1 2 9 -5", NumberClassifier.LARGEST));
+        assertEquals("Largest 6\n", classify("4 6 5", NumberClassifier.LARGEST));
+        assertEquals("", classify("", NumberClassifier.LARGEST));
+    }
+
+    @Test
+    void perValueLabels() throws Exception {
+        assertEquals("-4 Even Negative\n0 Even Zero\n7 Odd Positive\nLargest 7\n",
+                classify("-4 0 7", NumberClassifier.PARITY | NumberClassifier.SIGN | NumberClassifier.LARGEST));
+    }
+}
@@ -0,0 +1,73 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/*
+  NumberStatsTest.java
+
+  The mapped, chunked file path must give the same totals as the
+  sequential stdin path for every chunk size, including chunks of a few
+  bytes so that most tokens straddle a boundary.
+*/
+class NumberStatsTest {
+    @TempDir
+    Path dir;
+
+    private static String totals(NumberStats s) {
+        return s.count + " " + s.even + " " + s.positive + " " + s.zero + " " + s.negative + " " + s.max;
+    }
+
+    private String check(String text) throws IOException {
+        byte[] data = text.getBytes(StandardCharsets.US_ASCII);
+        Path file = Files.write(dir.resolve("ints.txt"), data);
+        String expected = totals(NumberStats.of(new FastInput(new ByteArrayInputStream(data))));
+        assertEquals(expected, totals(NumberStats.of(file)));
+        for (long chunk = 1; chunk <= data.length + 1; chunk++)
+            assertEquals(expected, totals(NumberStats.of(file, chunk)), "chunk size " + chunk);
+        return expected;
+    }
+
+    @Test
+    void totals() throws IOException {
+        assertEquals("6 3 3 1 2 12", check("3 -4 0 7 12 -9\n"));
+        assertEquals("2 1 1 0 1 2147483647", check("-2147483648\t2147483647"));
+    }
+
+    @Test
+    void emptyInput() throws IOException {
+        assertEquals("0 0 0 0 0 " + Integer.MIN_VALUE, check(""));
+        assertEquals("0 0 0 0 0 " + Integer.MIN_VALUE, check(" \n\r\n "));
+    }
+
+    @Test
+    void longTokensAcrossChunks() throws IOException {
+        // longer than the 12 bytes mapped past a chunk by default
+        assertEquals("4 2 2 1 1 42", check("+0000000000000000000042 -00000000000000000000000007 1 000000000000000000000000\n"));
+    }
+
+    @Test
+    void rejectsHighBytes() throws IOException {
+        // 0xA0 is negative as a signed byte and must not pass for whitespace
+        Path file = Files.write(dir.resolve("bad.txt"), new byte[] { '1', ' ', (byte) 0xA0, '2', '\n' });
+        for (long chunk = 1; chunk <= 6; chunk++) {
+            long c = chunk;
+            assertThrows(NumberFormatException.class, () -> NumberStats.of(file, c));
+        }
+    }
+
+    @Test
+    void rejectsOverflowAndGarbage() throws IOException {
+        for (String bad : new String[] { "2147483648", "-2147483649", "12a", "-", "+ 1" }) {
+            Path file = Files.writeString(dir.resolve("bad.txt"), bad);
+            assertThrows(NumberFormatException.class, () -> NumberStats.of(file), bad);
+        }
+    }
+}
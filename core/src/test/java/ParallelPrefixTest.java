@@ -0,0 +1,74 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/*
+  ParallelPrefixTest.java
+
+  Inputs are well above 2 * THRESHOLD so the fork and merge path runs,
+  not just one sequential scan. Every result is checked against the
+  sequential longestCP.longestCommonPrefix.
+*/
+class ParallelPrefixTest {
+    static final int N = 3 * ParallelPrefix.THRESHOLD + 17;
+
+    private static String[] keys(String prefix, Random r) {
+        String[] strs = new String[N];
+        for (int i = 0; i < N; i++)
+            strs[i] = prefix + Integer.toString(r.nextInt(1 << 20), 36);
+        return strs;
+    }
+
+    private static void check(String expected, String[] strs) {
+        String[] copy = strs.clone();
+        assertEquals(expected, longestCP.longestCommonPrefix(strs));
+        assertEquals(expected, longestCP.parallelLongestCommonPrefix(strs));
+        assertEquals(expected, ParallelPrefix.longestCommonPrefix(strs));
+        assertEquals(Arrays.asList(copy), Arrays.asList(strs));
+    }
+
+    @Test
+    void allShareAPrefix() {
+        String[] strs = keys("user/profile/", new Random(1));
+        check(longestCP.longestCommonPrefix(strs), strs);
+        Arrays.fill(strs, "same");
+        check("same", strs);
+    }
+
+    @Test
+    void oneMismatchDeepInTheRightHalf() {
+        for (int at : new int[] { N / 2, N / 2 + 1, 3 * N / 4, N - ParallelPrefix.THRESHOLD / 2, N - 1 }) {
+            String[] strs = keys("user/profile/", new Random(at));
+            strs[at] = "zzz";
+            check("", strs);
+            strs[at] = "user/pr";
+            check("user/pr", strs);
+            strs[at] = "user/profile/";
+            check(longestCP.longestCommonPrefix(strs), strs);
+        }
+    }
+
+    @Test
+    void shorterStringAtAMergePoint() {
+        // strs[mid] of the top-level split is the right half's first string
+        String[] strs = keys("abcdef", new Random(3));
+        strs[N >>> 1] = "abc";
+        check("abc", strs);
+        strs[N >>> 1] = "";
+        check("", strs);
+    }
+
+    @Test
+    void randomInputs() {
+        Random r = new Random(4);
+        for (int round = 0; round < 20; round++) {
+            String[] strs = keys("k", r);
+            int cut = r.nextInt(N);
+            strs[cut] = strs[cut].substring(0, r.nextInt(strs[cut].length() + 1));
+            check(longestCP.longestCommonPrefix(strs), strs);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/*
+  PrefixIndexTest.java
+
+  Every query is checked against longestCP.longestCommonPrefix on the
+  same slice, over small alphabets so long shared prefixes are common.
+  Sizes around powers of two exercise the sparse-table offsets and the
+  segment-tree leaves.
+*/
+class PrefixIndexTest {
+    private static String[] randomStrings(Random rnd, int n) {
+        String[] strs = new String[n];
+        for (int i = 0; i < n; i++) {
+            StringBuilder sb = new StringBuilder("ab");
+            int len = rnd.nextInt(6);
+            for (int j = 0; j < len; j++)
+                sb.append((char) ('a' + rnd.nextInt(2)));
+            strs[i] = sb.toString();
+        }
+        return strs;
+    }
+
+    @Test
+    void rangeLcpMatchesBruteForce() {
+        Random rnd = new Random(1);
+        for (int n : new int[] { 1, 2, 3, 7, 8, 9, 16, 17, 33 }) {
+            String[] strs = randomStrings(rnd, n);
+            PrefixIndex index = new PrefixIndex(strs);
+            for (int from = 0; from <= n; from++)
+                for (int to = from; to <= n; to++) {
+                    String[] slice = Arrays.copyOfRange(strs, from, to);
+                    String expected = to == from ? "" : longestCP.longestCommonPrefix(slice);
+                    assertEquals(expected, index.rangeLcp(from, to), "rangeLcp " + from + ".." + to + " of " + n);
+                }
+        }
+    }
+
+    @Test
+    void sortedRangeLcpMatchesBruteForce() {
+        Random rnd = new Random(2);
+        for (int n : new int[] { 1, 2, 5, 8, 13, 32, 40 }) {
+            String[] strs = randomStrings(rnd, n);
+            PrefixIndex index = new PrefixIndex(strs);
+            String[] sorted = strs.clone();
+            Arrays.sort(sorted);
+            for (int k = 0; k < n; k++)
+                assertEquals(sorted[k], index.sorted(k));
+            for (int from = 0; from <= n; from++)
+                for (int to = from; to <= n; to++) {
+                    String expected = to == from ? "" : longestCP.longestCommonPrefix(Arrays.copyOfRange(sorted, from, to));
+                    assertEquals(expected, index.sortedRangeLcp(from, to), "sortedRangeLcp " + from + ".." + to + " of " + n);
+                    assertEquals(expected.length(), index.sortedRangeLength(from, to));
+                }
+        }
+    }
+
+    @Test
+    void groupLcp() {
+        PrefixIndex index = new PrefixIndex(new String[] { "flower", "flow", "flight", "dog", "racecar" });
+        assertEquals("fl", index.groupLcp("f"));
+        assertEquals("flow", index.groupLcp("flo"));
+        assertEquals("dog", index.groupLcp("d"));
+        assertEquals("", index.groupLcp(""));
+        assertNull(index.groupLcp("cat"));
+        assertNull(index.groupLcp("flowers"));
+    }
+
+    @Test
+    void inputIsNotModified() {
+        String[] strs = { "b", "a", "c" };
+        new PrefixIndex(strs);
+        assertArrayEquals(new String[] { "b", "a", "c" }, strs);
+    }
+
+    @Test
+    void emptyAndInvalidRanges() {
+        PrefixIndex empty = new PrefixIndex(new String[0]);
+        assertEquals(0, empty.size());
+        assertEquals("", empty.rangeLcp(0, 0));
+        assertNull(empty.groupLcp("a"));
+
+        PrefixIndex index = new PrefixIndex(new String[] { "ab", "ac" });
+        assertThrows(IndexOutOfBoundsException.class, () -> index.rangeLcp(1, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> index.rangeLcp(0, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> index.sortedRangeLcp(-1, 1));
+    }
+}
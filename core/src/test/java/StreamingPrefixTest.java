@@ -0,0 +1,84 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/*
+  StreamingPrefixTest.java
+
+  Each input goes through all three paths (buffered file, mapped file,
+  stdin), which must agree.
+*/
+class StreamingPrefixTest {
+    @TempDir
+    Path dir;
+
+    private String prefix(byte[] data) throws IOException {
+        Path file = Files.write(dir.resolve("keys.txt"), data);
+        String streamed = StreamingPrefix.fromFile(file, false);
+        assertEquals(streamed, StreamingPrefix.fromFile(file, true), "mmap");
+        InputStream stdin = System.in;
+        try {
+            System.setIn(new ByteArrayInputStream(data));
+            assertEquals(streamed, StreamingPrefix.fromStdin(), "stdin");
+        } finally {
+            System.setIn(stdin);
+        }
+        return streamed;
+    }
+
+    private String prefix(String text) throws IOException {
+        return prefix(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void lfAndCrlf() throws IOException {
+        assertEquals("fl", prefix("flower\nflow\nflight\n"));
+        assertEquals("fl", prefix("flower\r\nflow\r\nflight\r\n"));
+        assertEquals("", prefix("dog\nracecar\ncar\n"));
+    }
+
+    @Test
+    void crIsNotPartOfTheKey() throws IOException {
+        // "flow\r" against "flower" must still give "flow"
+        assertEquals("flow", prefix("flow\r\nflower\r\n"));
+        assertEquals("flow", prefix("flower\r\nflow\r\n"));
+    }
+
+    @Test
+    void missingFinalNewline() throws IOException {
+        assertEquals("flow", prefix("flower\nflow"));
+        assertEquals("flow", prefix("flower\r\nflow\r"));
+        assertEquals("abc", prefix("abc"));
+    }
+
+    @Test
+    void emptyInputAndEmptyLines() throws IOException {
+        assertEquals("", prefix(""));
+        assertEquals("", prefix("\n"));
+        assertEquals("", prefix("abc\n\nabd\n"));
+        assertEquals("abc", prefix("abc\n"));
+    }
+
+    @Test
+    void neverSplitsUtf8() throws IOException {
+        // é and è share their lead byte 0xC3
+        assertEquals("x", prefix("xé\nxè\n"));
+        assertEquals("xé", prefix("xéa\nxéb\n"));
+        // € and ₭ share their first two bytes
+        assertEquals("", prefix("€\n₭\n"));
+    }
+
+    @Test
+    void longKeys() throws IOException {
+        String key = "k".repeat(StreamingPrefix.BUFFER_SIZE + 10);
+        assertEquals(key.substring(0, key.length() - 1), prefix(key + "\n" + key.substring(0, key.length() - 1) + "z\n"));
+    }
+}
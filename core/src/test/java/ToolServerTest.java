@@ -0,0 +1,69 @@
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+/*
+  ToolServerTest.java
+
+  A bad request must answer "ERR ..." and leave the connection usable
+  for the requests queued behind it.
+*/
+class ToolServerTest {
+    private static BufferedReader payload(String s) {
+        return new BufferedReader(new StringReader(s));
+    }
+
+    @Test
+    void malformedCubeIsAnError() {
+        assertThrows(IllegalArgumentException.class, () -> ToolServer.handle("cube 1", payload("3\n")));
+        assertThrows(IllegalArgumentException.class, () -> ToolServer.handle("cube 2", payload("2 1\nR R\n")));
+    }
+
+    @Test
+    void truncatedPayloadIsAnIoError() {
+        assertThrows(IOException.class, () -> ToolServer.handle("cube 3", payload("2 1\n")));
+    }
+
+    @Test
+    void connectionSurvivesBadRequests() throws Exception {
+        try (ServerSocketChannel server = ServerSocketChannel.open()) {
+            server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            Thread t = new Thread(() -> {
+                try {
+                    ToolServer.serve(server.accept());
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            t.start();
+            try (SocketChannel ch = SocketChannel.open(server.getLocalAddress())) {
+                OutputStream out = Channels.newOutputStream(ch);
+                out.write("cube 1\n3\nfrobnicate\nparity 4\n".getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                BufferedReader in = new BufferedReader(new InputStreamReader(Channels.newInputStream(ch), StandardCharsets.UTF_8));
+                assertTrue(in.readLine().startsWith("ERR "));
+                assertEquals(".", in.readLine());
+                assertTrue(in.readLine().startsWith("ERR "));
+                assertEquals(".", in.readLine());
+                assertEquals("Even", in.readLine());
+                assertEquals(".", in.readLine());
+                ch.shutdownOutput();
+                t.join(5000);
+            }
+        }
+    }
+}
@@ -1,24 +1,55 @@
-import java.util.Arrays;
-
 public class longestCP {
+    // Shrinks a running prefix string by string: O(total chars), no sort,
+    // and the caller's array is left untouched.
     public static String longestCommonPrefix(String[] strs) {
         if (strs == null || strs.length == 0)
             return "";
-        Arrays.sort(strs);
-        String first = strs[0];
-        String last = strs[strs.length - 1];
-        int i = 0;
-        while (i < first.length() && i < last.length() && first.charAt(i) == last.charAt(i)) {
-            i++;
+        PrefixAccumulator acc = new PrefixAccumulator();
+        for (String s : strs) {
+            if (!acc.accept(s))
+                break;
         }
-        return first.substring(0, i);
+        return acc.prefix();
+    }
+
+    // Same answer, computed over sub-ranges on the common fork-join pool.
+    public static String parallelLongestCommonPrefix(String[] strs) {
+        return ParallelPrefix.longestCommonPrefix(strs);
     }
-    public static void main(String[] args) {
+    static void usage() {
+        System.err.println("usage: longestCP [--mmap] <file | ->");
+        System.exit(2);
+    }
+
+    // java longestCP [--mmap] <file | ->  streams keys instead of the demo below
+    public static void main(String[] args) throws Exception {
+        FastOutput out = new FastOutput(System.out);
+        if (args.length > 0) {
+            boolean mmap = false;
+            String source = null;
+            for (String a : args) {
+                if (a.equals("--mmap") && !mmap)
+                    mmap = true;
+                else if (source == null && (a.equals("-") || !a.startsWith("-")))
+                    source = a;
+                else
+                    usage();
+            }
+            // --mmap needs a file to map
+            if (source == null || (mmap && source.equals("-")))
+                usage();
+            String prefix = source.equals("-") ? StreamingPrefix.fromStdin()
+                    : StreamingPrefix.fromFile(java.nio.file.Paths.get(source), mmap);
+            out.print("Output: \"").print(prefix).println("\"");
+            out.flush();
+            return;
+        }
         String[] strs1 = { "flower", "flow", "flight" };
-        System.out.println("Output: \"" + longestCommonPrefix(strs1) + "\"");
+        out.print("Output: \"").print(longestCommonPrefix(strs1)).println("\"");
 
         String[] strs2 = { "dog", "racecar", "car" };
-        System.out.println("Output: \""  + longestCommonPrefix(strs2) + "\"");
+        out.print("Output: \"").print(longestCommonPrefix(strs2)).println("\"");
+        out.flush();
 
 
         